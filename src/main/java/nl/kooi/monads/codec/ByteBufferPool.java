@@ -0,0 +1,46 @@
+package nl.kooi.monads.codec;
+
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of heap buffers used by the binary product codec, so reading a request or encoding a response does not
+ * allocate a fresh buffer per request. Heap buffers are used on purpose: their backing array can be filled from and
+ * written to a servlet stream as is.
+ */
+@Component
+public class ByteBufferPool {
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+    private static final int MAX_POOLED_BUFFER_SIZE = 32 * BUFFER_SIZE;
+    private static final int MAX_POOLED_BUFFERS = 64;
+
+    private final ConcurrentLinkedQueue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooledBuffers = new AtomicInteger();
+
+    public ByteBuffer acquire() {
+        var buffer = buffers.poll();
+
+        if (buffer == null) {
+            return ByteBuffer.allocate(BUFFER_SIZE);
+        }
+
+        pooledBuffers.decrementAndGet();
+        return buffer.clear();
+    }
+
+    public void release(ByteBuffer buffer) {
+        if (!buffer.hasArray() || buffer.capacity() > MAX_POOLED_BUFFER_SIZE) {
+            return;
+        }
+
+        if (pooledBuffers.incrementAndGet() <= MAX_POOLED_BUFFERS) {
+            buffers.offer(buffer);
+        } else {
+            pooledBuffers.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package nl.kooi.monads.codec;
+
+import lombok.experimental.UtilityClass;
+import nl.kooi.monads.domain.product.*;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Compact binary wire format for the {@link Product} hierarchy.
+ * <p>
+ * A message is a varint product count followed by the products. Every product starts with its {@link ProductType#getTag()}
+ * and a bitmask of the fields that are present, followed by the present fields in record component order:
+ * <ul>
+ *     <li>strings as a varint byte length and the UTF-8 bytes</li>
+ *     <li>dates as a zigzag varint epoch day</li>
+ *     <li>integers as a zigzag varint</li>
+ *     <li>decimals as a zigzag varint scale and a zigzag varint unscaled value, falling back to the two's-complement
+ *     bytes for unscaled values that do not fit in a long</li>
+ * </ul>
+ */
+@UtilityClass
+public class ProductBinaryCodec {
+
+    private static final int MAX_VARINT_BYTES = 10;
+
+    /**
+     * Encodes the products into the given buffer, starting at its position. When the buffer is too small it is
+     * replaced by a larger heap buffer, so callers must continue with the returned buffer. Its position and limit
+     * enclose exactly the encoded message.
+     */
+    public static ByteBuffer encode(List<? extends Product> products, ByteBuffer buffer) {
+        var start = buffer.position();
+        var encoder = new Encoder(buffer);
+
+        encoder.writeVarint(products.size());
+        products.forEach(encoder::writeProduct);
+
+        return encoder.buffer.flip().position(start);
+    }
+
+    /**
+     * Decodes the products from the given buffer, starting at its position and reading directly from its content.
+     * Malformed messages are rejected with an {@link IllegalArgumentException}.
+     */
+    public static List<Product> decode(ByteBuffer buffer) {
+        try {
+            var decoder = new Decoder(buffer);
+            var count = decoder.readVarint();
+
+            if (count < 0 || count > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Malformed product message: invalid product count " + count);
+            }
+
+            var products = new ArrayList<Product>((int) Math.min(count, buffer.remaining()));
+
+            for (var i = 0; i < count; i++) {
+                products.add(decoder.readProduct());
+            }
+
+            return products;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated product message", e);
+        } catch (DateTimeException | ArithmeticException e) {
+            throw new IllegalArgumentException("Malformed product message", e);
+        }
+    }
+
+    /**
+     * Copies the content up to the position of the buffer into a heap buffer with room for at least the given number
+     * of extra bytes.
+     */
+    static ByteBuffer grow(ByteBuffer buffer, int bytes) {
+        var grown = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes));
+        return grown.put(buffer.flip());
+    }
+
+    private static final class Encoder {
+        private ByteBuffer buffer;
+        private int presenceMask;
+        private int fieldIndex;
+
+        private Encoder(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        private void writeProduct(Product product) {
+            ensureCapacity(2);
+            buffer.put(product.productType().getTag());
+
+            var maskPosition = buffer.position();
+            buffer.put((byte) 0);
+            presenceMask = 0;
+            fieldIndex = 0;
+
+            writeString(product.productName());
+            writeDate(product.startDate());
+            writeDecimal(product.yearlyCommission());
+
+            switch (product.productType()) {
+                case PENSION -> {
+                    var pension = (PensionProduct) product;
+                    writeDecimal(pension.monthlyDeposit());
+                    writeDate(pension.endDate());
+                    writeDecimal(pension.targetCapital());
+                }
+                case MORTGAGE -> {
+                    var mortgage = (MortgageProduct) product;
+                    writeDecimal(mortgage.monthlyPayment());
+                    writeDecimal(mortgage.monthlySavingsAmount());
+                    writeInteger(mortgage.durationInMonths());
+                    writeDecimal(mortgage.interest());
+                }
+                case LIFE_INSURANCE -> {
+                    var lifeInsurance = (LifeInsuranceProduct) product;
+                    writeDecimal(lifeInsurance.insuredAmount());
+                    writeDate(lifeInsurance.birthdateInsuredCustomer());
+                }
+                case NON_LIFE_INSURANCE -> writeDecimal(((NonLifeInsurance) product).monthlyPremium());
+            }
+
+            buffer.put(maskPosition, (byte) presenceMask);
+        }
+
+        private boolean present(Object value) {
+            if (value != null) {
+                presenceMask |= 1 << fieldIndex;
+            }
+
+            fieldIndex++;
+            return value != null;
+        }
+
+        private void writeString(String value) {
+            if (present(value)) {
+                var bytes = value.getBytes(UTF_8);
+                writeVarint(bytes.length);
+                ensureCapacity(bytes.length);
+                buffer.put(bytes);
+            }
+        }
+
+        private void writeDate(LocalDate value) {
+            if (present(value)) {
+                writeVarint(zigzag(value.toEpochDay()));
+            }
+        }
+
+        private void writeInteger(Integer value) {
+            if (present(value)) {
+                writeVarint(zigzag(value));
+            }
+        }
+
+        private void writeDecimal(BigDecimal value) {
+            if (present(value)) {
+                var unscaledValue = value.unscaledValue();
+                var fitsInLong = unscaledValue.bitLength() < Long.SIZE;
+
+                writeVarint(zigzag(value.scale()) << 1 | (fitsInLong ? 0 : 1));
+
+                if (fitsInLong) {
+                    writeVarint(zigzag(unscaledValue.longValue()));
+                } else {
+                    var bytes = unscaledValue.toByteArray();
+                    writeVarint(bytes.length);
+                    ensureCapacity(bytes.length);
+                    buffer.put(bytes);
+                }
+            }
+        }
+
+        private void writeVarint(long value) {
+            ensureCapacity(MAX_VARINT_BYTES);
+
+            while ((value & ~0x7FL) != 0) {
+                buffer.put((byte) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+
+            buffer.put((byte) value);
+        }
+
+        private void ensureCapacity(int bytes) {
+            if (buffer.remaining() < bytes) {
+                buffer = grow(buffer, bytes);
+            }
+        }
+
+        private static long zigzag(long value) {
+            return (value << 1) ^ (value >> 63);
+        }
+    }
+
+    private static final class Decoder {
+        private final ByteBuffer buffer;
+        private int presenceMask;
+        private int fieldIndex;
+
+        private Decoder(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        private Product readProduct() {
+            var productType = ProductType.fromTag(buffer.get());
+            presenceMask = Byte.toUnsignedInt(buffer.get());
+            fieldIndex = 0;
+
+            var productName = readString();
+            var startDate = readDate();
+            var yearlyCommission = readDecimal();
+
+            return switch (productType) {
+                case PENSION -> new PensionProduct(productName, startDate, yearlyCommission,
+                        readDecimal(), readDate(), readDecimal());
+                case MORTGAGE -> new MortgageProduct(productName, startDate, yearlyCommission,
+                        readDecimal(), readDecimal(), readInteger(), readDecimal());
+                case LIFE_INSURANCE -> new LifeInsuranceProduct(productName, startDate, yearlyCommission,
+                        readDecimal(), readDate());
+                case NON_LIFE_INSURANCE -> new NonLifeInsurance(productName, startDate, yearlyCommission,
+                        readDecimal());
+            };
+        }
+
+        private boolean present() {
+            return (presenceMask & 1 << fieldIndex++) != 0;
+        }
+
+        private String readString() {
+            if (!present()) {
+                return null;
+            }
+
+            var length = (int) readVarint();
+
+            if (length < 0 || length > buffer.remaining()) {
+                throw new BufferUnderflowException();
+            }
+
+            var value = buffer.hasArray()
+                    ? new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, UTF_8)
+                    : UTF_8.decode(buffer.slice(buffer.position(), length)).toString();
+
+            buffer.position(buffer.position() + length);
+            return value;
+        }
+
+        private LocalDate readDate() {
+            return present() ? LocalDate.ofEpochDay(unzigzag(readVarint())) : null;
+        }
+
+        private Integer readInteger() {
+            return present() ? Math.toIntExact(unzigzag(readVarint())) : null;
+        }
+
+        private BigDecimal readDecimal() {
+            if (!present()) {
+                return null;
+            }
+
+            var header = readVarint();
+            var scale = Math.toIntExact(unzigzag(header >>> 1));
+
+            if ((header & 1) == 0) {
+                return BigDecimal.valueOf(unzigzag(readVarint()), scale);
+            }
+
+            var length = (int) readVarint();
+
+            if (length < 0 || length > buffer.remaining()) {
+                throw new BufferUnderflowException();
+            }
+
+            var bytes = new byte[length];
+            buffer.get(bytes);
+            return new BigDecimal(new BigInteger(bytes), scale);
+        }
+
+        private long readVarint() {
+            var value = 0L;
+
+            for (var shift = 0; shift < Long.SIZE; shift += 7) {
+                var b = buffer.get();
+                value |= (long) (b & 0x7F) << shift;
+
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+
+            throw new IllegalArgumentException("Malformed varint");
+        }
+
+        private static long unzigzag(long value) {
+            return (value >>> 1) ^ -(value & 1);
+        }
+    }
+}
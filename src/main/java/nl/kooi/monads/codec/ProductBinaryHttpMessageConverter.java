@@ -0,0 +1,110 @@
+package nl.kooi.monads.codec;
+
+import nl.kooi.monads.domain.product.Product;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Offers the {@link ProductBinaryCodec} format as the {@value #MEDIA_TYPE_VALUE} content type, next to JSON, for
+ * request and response bodies of type {@code List<Product>}. It is registered after the default converters by
+ * {@link ProductBinaryWebConfig}, so JSON stays the default for clients that accept any content type.
+ */
+public class ProductBinaryHttpMessageConverter extends AbstractGenericHttpMessageConverter<List<Product>> {
+
+    public static final String MEDIA_TYPE_VALUE = "application/x-product-binary";
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+
+    static final int MAX_BODY_SIZE = 1024 * 1024;
+
+    private final ByteBufferPool bufferPool;
+
+    public ProductBinaryHttpMessageConverter(ByteBufferPool bufferPool) {
+        super(MEDIA_TYPE);
+        this.bufferPool = bufferPool;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return List.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return listElementType(type)
+                .filter(elementType -> elementType.isAssignableFrom(Product.class))
+                .isPresent() && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return listElementType(type)
+                .filter(Product.class::isAssignableFrom)
+                .isPresent() && canWrite(mediaType);
+    }
+
+    @Override
+    public List<Product> read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        return readInternal(null, inputMessage);
+    }
+
+    @Override
+    protected List<Product> readInternal(Class<? extends List<Product>> clazz, HttpInputMessage inputMessage) throws IOException {
+        var buffer = bufferPool.acquire();
+
+        try {
+            buffer = readBody(inputMessage.getBody(), buffer);
+            return ProductBinaryCodec.decode(buffer.flip());
+        } catch (IllegalArgumentException e) {
+            throw new HttpMessageNotReadableException("Invalid product message: " + e.getMessage(), e, inputMessage);
+        } finally {
+            bufferPool.release(buffer);
+        }
+    }
+
+    private static ByteBuffer readBody(InputStream body, ByteBuffer buffer) throws IOException {
+        int read;
+
+        while ((read = body.read(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining())) != -1) {
+            buffer.position(buffer.position() + read);
+
+            if (!buffer.hasRemaining()) {
+                if (buffer.position() >= MAX_BODY_SIZE) {
+                    throw new IllegalArgumentException("Product message exceeds " + MAX_BODY_SIZE + " bytes");
+                }
+
+                buffer = ProductBinaryCodec.grow(buffer, 1);
+            }
+        }
+
+        return buffer;
+    }
+
+    @Override
+    protected void writeInternal(List<Product> products, Type type, HttpOutputMessage outputMessage) throws IOException {
+        var buffer = ProductBinaryCodec.encode(products, bufferPool.acquire());
+
+        try {
+            outputMessage.getHeaders().setContentLength(buffer.remaining());
+            outputMessage.getBody().write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        } finally {
+            bufferPool.release(buffer);
+        }
+    }
+
+    private static Optional<Class<?>> listElementType(Type type) {
+        return Optional.ofNullable(type)
+                .map(ResolvableType::forType)
+                .map(resolvableType -> resolvableType.as(List.class).resolveGeneric(0));
+    }
+}
@@ -0,0 +1,20 @@
+package nl.kooi.monads.codec;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+@RequiredArgsConstructor
+public class ProductBinaryWebConfig implements WebMvcConfigurer {
+
+    private final ByteBufferPool bufferPool;
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new ProductBinaryHttpMessageConverter(bufferPool));
+    }
+}
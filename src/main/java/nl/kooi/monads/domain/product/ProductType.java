@@ -1,8 +1,36 @@
 package nl.kooi.monads.domain.product;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
 public enum ProductType {
-    PENSION,
-    LIFE_INSURANCE,
-    MORTGAGE,
-    NON_LIFE_INSURANCE
+    PENSION((byte) 1),
+    LIFE_INSURANCE((byte) 2),
+    MORTGAGE((byte) 3),
+    NON_LIFE_INSURANCE((byte) 4);
+
+    /**
+     * Stable identifier of the product type on the binary wire format, independent of the declaration order.
+     */
+    private final byte tag;
+
+    private static final ProductType[] BY_TAG = new ProductType[Byte.MAX_VALUE + 1];
+
+    static {
+        for (var productType : values()) {
+            BY_TAG[productType.tag] = productType;
+        }
+    }
+
+    public static ProductType fromTag(byte tag) {
+        var productType = tag >= 0 ? BY_TAG[tag] : null;
+
+        if (productType == null) {
+            throw new IllegalArgumentException("Unknown product type tag: " + tag);
+        }
+
+        return productType;
+    }
 }
@@ -0,0 +1,108 @@
+package nl.kooi.monads.warmup;
+
+import lombok.extern.slf4j.Slf4j;
+import nl.kooi.monads.domain.DiscountApi;
+import nl.kooi.monads.domain.product.Product;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Drives the active {@link DiscountApi} with the {@link SyntheticPortfolios} until the JIT compiler has settled, so the
+ * first real requests after a deploy do not run interpreted code. Application runners complete before Spring Boot
+ * publishes {@code ReadinessState.ACCEPTING_TRAFFIC}. The embedded server already accepts connections meanwhile, so
+ * holding back traffic is up to a readiness probe that reads the availability state.
+ * <p>
+ * The JVM does not expose a compilation count, so the total compilation time is used instead: the warm-up ends once it
+ * has not changed for a quiet period of at least one second and twenty rounds, or when the maximum duration has
+ * passed. Without compilation time monitoring the warm-up runs for the maximum duration.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "discount.warm-up", name = "enabled", havingValue = "true")
+public class DiscountWarmUp implements ApplicationRunner {
+
+    static final int CALLS_PER_ROUND = 10_000;
+    private static final Duration QUIET_PERIOD = Duration.ofSeconds(1);
+    private static final int QUIET_ROUNDS = 20;
+
+    private final DiscountApi discountApi;
+    private final Duration maxDuration;
+
+    /**
+     * Accumulates the results, so the JIT compiler cannot drop the discount calculations it is being warmed up for.
+     */
+    private int sink;
+
+    public DiscountWarmUp(DiscountApi discountApi,
+                          @Value("${discount.warm-up.max-duration:PT30S}") Duration maxDuration) {
+        this.discountApi = discountApi;
+        this.maxDuration = maxDuration;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        var compilationMXBean = Optional.ofNullable(ManagementFactory.getCompilationMXBean())
+                .filter(CompilationMXBean::isCompilationTimeMonitoringSupported);
+
+        if (compilationMXBean.isEmpty()) {
+            log.info("JIT compilation time is not available, the discount warm-up runs for {}", maxDuration);
+        }
+
+        var portfolios = SyntheticPortfolios.createPortfolios();
+        var deadline = System.nanoTime() + maxDuration.toNanos();
+        long compilationTime = compilationMXBean.map(CompilationMXBean::getTotalCompilationTime).orElse(0L);
+        var lastCompilation = System.nanoTime();
+        var quietRounds = 0;
+        var firstRoundNanosPerCall = 0L;
+        var lastRoundNanosPerCall = 0L;
+        var rounds = 0;
+        var settled = false;
+
+        do {
+            lastRoundNanosPerCall = runRound(portfolios) / CALLS_PER_ROUND;
+
+            if (rounds++ == 0) {
+                firstRoundNanosPerCall = lastRoundNanosPerCall;
+            }
+
+            if (compilationMXBean.isPresent()) {
+                var currentCompilationTime = compilationMXBean.get().getTotalCompilationTime();
+
+                if (currentCompilationTime != compilationTime) {
+                    compilationTime = currentCompilationTime;
+                    lastCompilation = System.nanoTime();
+                    quietRounds = 0;
+                } else {
+                    settled = ++quietRounds >= QUIET_ROUNDS
+                            && System.nanoTime() - lastCompilation >= QUIET_PERIOD.toNanos();
+                }
+            }
+        } while (!settled && System.nanoTime() < deadline);
+
+        log.info("Discount warm-up finished after {} rounds ({}): {} ns per call in the first round, {} ns per call in the last round",
+                rounds,
+                settled ? "compilation settled" : "maximum duration reached",
+                firstRoundNanosPerCall,
+                lastRoundNanosPerCall);
+        log.debug("Discount warm-up result hash: {}", sink);
+    }
+
+    private long runRound(List<List<Product>> portfolios) {
+        var start = System.nanoTime();
+
+        for (var i = 0; i < CALLS_PER_ROUND; i++) {
+            sink += discountApi.determineDiscount(portfolios.get(i % portfolios.size())).hashCode();
+        }
+
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,81 @@
+package nl.kooi.monads.warmup;
+
+import lombok.experimental.UtilityClass;
+import nl.kooi.monads.domain.product.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+@UtilityClass
+public class SyntheticPortfolios {
+
+    /**
+     * Portfolios that together hit every {@link ProductType} and every outcome of the discount rules, both as single
+     * products and mixed.
+     */
+    public static List<List<Product>> createPortfolios() {
+        var products = List.of(
+                createPensionProduct(null, 300),
+                createPensionProduct(null, 299),
+                createPensionProduct(21, 300),
+                createPensionProduct(19, 300),
+                createPensionProduct(19, 299),
+                createMortgageProduct("ANNUITY", 360),
+                createMortgageProduct("ANNUITY", 359),
+                createMortgageProduct("SAVINGS", 360),
+                createLifeInsurance(21, 500, 150000),
+                createLifeInsurance(20, 500, 150000),
+                createLifeInsurance(20, 1500, 150000),
+                createLifeInsurance(21, 500, 99000),
+                createLifeInsurance(21, 500, null),
+                createLifeInsurance(21, null, 150000),
+                createLifeInsurance(21, 20, 150000),
+                createNonLifeInsurance());
+
+        var portfolios = new ArrayList<List<Product>>();
+        portfolios.add(Collections.emptyList());
+        products.forEach(product -> portfolios.add(List.of(product)));
+        portfolios.add(products);
+        portfolios.add(List.of(createPensionProduct(21, 300),
+                createMortgageProduct("ANNUITY", 360),
+                createLifeInsurance(21, 500, 150000),
+                createNonLifeInsurance()));
+
+        return List.copyOf(portfolios);
+    }
+
+    private static Product createPensionProduct(Integer durationInYears, Integer monthlyDeposit) {
+        return new PensionProduct("pension",
+                LocalDate.now(),
+                BigDecimal.valueOf(1000),
+                BigDecimal.valueOf(monthlyDeposit),
+                Optional.ofNullable(durationInYears).map(LocalDate.now()::plusYears).orElse(null),
+                BigDecimal.valueOf(500000));
+    }
+
+    private static Product createMortgageProduct(String productName, int durationInMonths) {
+        return new MortgageProduct(productName,
+                LocalDate.now(),
+                BigDecimal.valueOf(500),
+                BigDecimal.valueOf(100),
+                BigDecimal.valueOf(150),
+                durationInMonths,
+                BigDecimal.ONE);
+    }
+
+    private static Product createLifeInsurance(int ageCustomerAtStartDate, Integer yearlyCommission, Integer insuredAmount) {
+        return new LifeInsuranceProduct("lifeInsurance",
+                LocalDate.now(),
+                Optional.ofNullable(yearlyCommission).map(BigDecimal::valueOf).orElse(null),
+                Optional.ofNullable(insuredAmount).map(BigDecimal::valueOf).orElse(null),
+                LocalDate.now().minusYears(ageCustomerAtStartDate));
+    }
+
+    private static Product createNonLifeInsurance() {
+        return new NonLifeInsurance("NL", LocalDate.now(), BigDecimal.valueOf(500), BigDecimal.valueOf(130));
+    }
+}
@@ -0,0 +1,94 @@
+package nl.kooi.monads.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import nl.kooi.monads.domain.product.Product;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static nl.kooi.monads.codec.ProductFixtures.*;
+
+/**
+ * Measures the time per product to encode and decode a mixed portfolio in the binary format, against encoding it as
+ * JSON. Run it with:
+ * <pre>
+ * ./mvnw test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *     -Dexec.args="-cp %classpath nl.kooi.monads.codec.ProductBinaryCodecBenchmark"
+ * </pre>
+ * Before running the benchmarks it prints the encoded size per product of both formats.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(ProductBinaryCodecBenchmark.PRODUCTS)
+public class ProductBinaryCodecBenchmark {
+
+    static final int PRODUCTS = 100;
+
+    private List<Product> products;
+    private ObjectMapper objectMapper;
+    private ByteBuffer buffer;
+    private ByteBuffer encoded;
+
+    @Setup
+    public void setUp() {
+        products = IntStream.range(0, PRODUCTS)
+                .mapToObj(ProductBinaryCodecBenchmark::createProduct)
+                .toList();
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        buffer = ByteBuffer.allocate(64 * 1024);
+        encoded = ProductBinaryCodec.encode(products, ByteBuffer.allocate(64 * 1024));
+    }
+
+    @Benchmark
+    public ByteBuffer encodeBinary() {
+        return ProductBinaryCodec.encode(products, buffer.clear());
+    }
+
+    @Benchmark
+    public List<Product> decodeBinary() {
+        return ProductBinaryCodec.decode(encoded.duplicate());
+    }
+
+    @Benchmark
+    public byte[] encodeJson() throws Exception {
+        return objectMapper.writeValueAsBytes(products);
+    }
+
+    public static void main(String[] args) throws Exception {
+        printBytesPerProduct();
+        new Runner(new OptionsBuilder()
+                .include(ProductBinaryCodecBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+    private static void printBytesPerProduct() throws Exception {
+        var benchmark = new ProductBinaryCodecBenchmark();
+        benchmark.setUp();
+
+        var binaryBytes = benchmark.encoded.remaining();
+        var jsonBytes = benchmark.encodeJson().length;
+
+        System.out.printf("Bytes per product: binary %.1f, JSON %.1f%n",
+                (double) binaryBytes / PRODUCTS,
+                (double) jsonBytes / PRODUCTS);
+    }
+
+    private static Product createProduct(int index) {
+        return switch (index % 4) {
+            case 0 -> pension();
+            case 1 -> mortgage();
+            case 2 -> lifeInsurance();
+            default -> nonLifeInsurance();
+        };
+    }
+}
@@ -0,0 +1,89 @@
+package nl.kooi.monads.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import nl.kooi.monads.domain.product.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static nl.kooi.monads.codec.ProductFixtures.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductBinaryCodecTests {
+
+    @Test
+    @DisplayName("All product types survive a round trip, including absent fields and decimals that do not fit in a long")
+    void roundTrip() {
+        var products = List.of(
+                new PensionProduct("pension", LocalDate.now(), BigDecimal.valueOf(1000),
+                        new BigDecimal("-300.55"), null, new BigDecimal("123456789012345678901234567890.1")),
+                new MortgageProduct("ANNUITY", LocalDate.of(1900, 1, 1), BigDecimal.valueOf(500),
+                        null, BigDecimal.valueOf(0.01), 360, BigDecimal.ONE),
+                new LifeInsuranceProduct("lifeInsurance", LocalDate.now(), null,
+                        BigDecimal.valueOf(150000), LocalDate.now().minusYears(21)),
+                new NonLifeInsurance(null, null, null, null));
+
+        var buffer = ProductBinaryCodec.encode(products, ByteBuffer.allocate(16));
+
+        assertThat(ProductBinaryCodec.decode(buffer)).isEqualTo(products);
+        assertThat(buffer.hasRemaining()).isFalse();
+    }
+
+    @Test
+    @DisplayName("The binary format is at least three times smaller than JSON")
+    void binaryIsSmallerThanJson() throws Exception {
+        var products = oneOfEachProductType();
+
+        var binarySize = ProductBinaryCodec.encode(products, ByteBuffer.allocate(1024)).remaining();
+        var jsonSize = new ObjectMapper().findAndRegisterModules().writeValueAsBytes(products).length;
+
+        assertThat(binarySize * 3).isLessThanOrEqualTo(jsonSize);
+    }
+
+    @Test
+    @DisplayName("A truncated message is rejected")
+    void truncatedMessage() {
+        var products = List.of(nonLifeInsurance());
+        var buffer = ProductBinaryCodec.encode(products, ByteBuffer.allocate(1024));
+        var truncated = ByteBuffer.wrap(Arrays.copyOf(buffer.array(), buffer.remaining() - 1));
+
+        assertThatThrownBy(() -> ProductBinaryCodec.decode(truncated)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("A date outside the supported range is rejected as a malformed message")
+    void epochDayOutOfRange() {
+        var message = ByteBuffer.wrap(new byte[]{1, ProductType.NON_LIFE_INSURANCE.getTag(), 0b10,
+                (byte) 0xFE, -1, -1, -1, -1, -1, -1, -1, -1, 1});
+
+        assertThatThrownBy(() -> ProductBinaryCodec.decode(message)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Encoding into a buffer that already holds data returns only the encoded message")
+    void encodeAfterExistingContent() {
+        var products = List.of(nonLifeInsurance());
+        var buffer = ByteBuffer.allocate(8).position(5);
+
+        var encoded = ProductBinaryCodec.encode(products, buffer);
+
+        assertThat(encoded.position()).isEqualTo(5);
+        assertThat(ProductBinaryCodec.decode(encoded)).isEqualTo(products);
+    }
+
+    @Test
+    @DisplayName("A negative product count is rejected as a malformed message")
+    void negativeProductCount() {
+        var message = ByteBuffer.wrap(new byte[]{-1, -1, -1, -1, -1, -1, -1, -1, -1, 1});
+
+        assertThatThrownBy(() -> ProductBinaryCodec.decode(message))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Malformed product message");
+    }
+}
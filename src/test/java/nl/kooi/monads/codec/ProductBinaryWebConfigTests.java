@@ -0,0 +1,116 @@
+package nl.kooi.monads.codec;
+
+import nl.kooi.monads.domain.product.PensionProduct;
+import nl.kooi.monads.domain.product.Product;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = ProductBinaryWebConfigTests.ProductController.class)
+@Import({ProductBinaryWebConfig.class, ByteBufferPool.class, ProductBinaryWebConfigTests.ProductController.class})
+class ProductBinaryWebConfigTests {
+
+    private static final List<Product> PRODUCTS = ProductFixtures.oneOfEachProductType();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Clients that accept any content type still get JSON")
+    void anyContentTypeGetsJson() throws Exception {
+        mockMvc.perform(get("/products").accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DisplayName("Clients that ask for the binary format get the binary format")
+    void binaryContentTypeGetsBinary() throws Exception {
+        var body = mockMvc.perform(get("/products").accept(ProductBinaryHttpMessageConverter.MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(ProductBinaryHttpMessageConverter.MEDIA_TYPE))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        assertThat(ProductBinaryCodec.decode(ByteBuffer.wrap(body))).isEqualTo(PRODUCTS);
+    }
+
+    @Test
+    @DisplayName("A binary request body is decoded")
+    void binaryRequestBody() throws Exception {
+        var encoded = ProductBinaryCodec.encode(PRODUCTS, ByteBuffer.allocate(1024));
+
+        mockMvc.perform(post("/products")
+                        .contentType(ProductBinaryHttpMessageConverter.MEDIA_TYPE)
+                        .content(Arrays.copyOfRange(encoded.array(), encoded.position(), encoded.limit())))
+                .andExpect(status().isOk())
+                .andExpect(content().string("4"));
+    }
+
+    @Test
+    @DisplayName("A malformed binary request body is a bad request")
+    void malformedBinaryRequestBody() throws Exception {
+        mockMvc.perform(post("/products")
+                        .contentType(ProductBinaryHttpMessageConverter.MEDIA_TYPE)
+                        .content(new byte[]{1, 4, 0b10, (byte) 0xFE, -1, -1, -1, -1, -1, -1, -1, -1, 1}))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("A binary request body larger than the maximum body size is a bad request")
+    void oversizedBinaryRequestBody() throws Exception {
+        mockMvc.perform(post("/products")
+                        .contentType(ProductBinaryHttpMessageConverter.MEDIA_TYPE)
+                        .content(new byte[ProductBinaryHttpMessageConverter.MAX_BODY_SIZE + 1]))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("A list of a specific product type cannot be read, because the message may hold any product type")
+    void binaryRequestBodyForSpecificProductType() throws Exception {
+        var encoded = ProductBinaryCodec.encode(PRODUCTS, ByteBuffer.allocate(1024));
+
+        mockMvc.perform(post("/pensions")
+                        .contentType(ProductBinaryHttpMessageConverter.MEDIA_TYPE)
+                        .content(Arrays.copyOfRange(encoded.array(), encoded.position(), encoded.limit())))
+                .andExpect(status().isUnsupportedMediaType());
+    }
+
+    @RestController
+    static class ProductController {
+
+        @GetMapping("/products")
+        List<Product> products() {
+            return PRODUCTS;
+        }
+
+        @PostMapping("/products")
+        int countProducts(@RequestBody List<Product> products) {
+            return products.size();
+        }
+
+        @PostMapping("/pensions")
+        int countPensions(@RequestBody List<PensionProduct> pensions) {
+            return pensions.size();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package nl.kooi.monads.codec;
+
+import nl.kooi.monads.domain.product.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+final class ProductFixtures {
+
+    private ProductFixtures() {
+    }
+
+    static List<Product> oneOfEachProductType() {
+        return List.of(pension(), mortgage(), lifeInsurance(), nonLifeInsurance());
+    }
+
+    static Product pension() {
+        return new PensionProduct("pension", LocalDate.now(), BigDecimal.valueOf(1000),
+                BigDecimal.valueOf(300), LocalDate.now().plusYears(21), BigDecimal.valueOf(500000));
+    }
+
+    static Product mortgage() {
+        return new MortgageProduct("ANNUITY", LocalDate.now(), BigDecimal.valueOf(500),
+                BigDecimal.valueOf(100), BigDecimal.valueOf(150), 360, BigDecimal.ONE);
+    }
+
+    static Product lifeInsurance() {
+        return new LifeInsuranceProduct("lifeInsurance", LocalDate.now(), BigDecimal.valueOf(500),
+                BigDecimal.valueOf(150000), LocalDate.now().minusYears(21));
+    }
+
+    static Product nonLifeInsurance() {
+        return new NonLifeInsurance("NL", LocalDate.now(), BigDecimal.valueOf(500), BigDecimal.valueOf(130));
+    }
+}
@@ -0,0 +1,70 @@
+package nl.kooi.monads.warmup;
+
+import nl.kooi.monads.domain.DiscountApi;
+import nl.kooi.monads.domain.DiscountService;
+import nl.kooi.monads.domain.DiscountServiceMonadized;
+import nl.kooi.monads.domain.product.Product;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples the latency of single discount calculations during the first minute of a fresh JVM, with and without the
+ * {@link DiscountWarmUp} running first, for both implementations. Every fork is a new JVM without benchmark warm-up
+ * iterations, so the percentiles include the calls right after a deploy. The calls use the synthetic portfolios in a
+ * shuffled order, not recorded traffic. Run it with:
+ * <pre>
+ * ./mvnw test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *     -Dexec.args="-cp %classpath nl.kooi.monads.warmup.DiscountWarmUpBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1, time = 60)
+@Fork(1)
+public class DiscountWarmUpBenchmark {
+
+    @Param({"monadic", "monadless"})
+    public String implementation;
+
+    @Param({"false", "true"})
+    public boolean warmUp;
+
+    private DiscountApi discountApi;
+    private List<List<Product>> portfolios;
+    private int call;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        discountApi = "monadic".equals(implementation) ? new DiscountServiceMonadized() : new DiscountService();
+
+        if (warmUp) {
+            new DiscountWarmUp(discountApi, Duration.ofSeconds(30)).run(null);
+        }
+
+        portfolios = new ArrayList<>(SyntheticPortfolios.createPortfolios());
+        Collections.shuffle(portfolios, new Random(42));
+    }
+
+    @Benchmark
+    public BigDecimal firstMinute() {
+        return discountApi.determineDiscount(portfolios.get(call++ % portfolios.size()));
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(DiscountWarmUpBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
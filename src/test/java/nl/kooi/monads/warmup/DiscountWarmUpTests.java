@@ -0,0 +1,69 @@
+package nl.kooi.monads.warmup;
+
+import nl.kooi.monads.domain.DiscountApi;
+import nl.kooi.monads.domain.DiscountService;
+import nl.kooi.monads.domain.product.Product;
+import nl.kooi.monads.domain.product.ProductType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DiscountWarmUpTests {
+
+    @Test
+    @DisplayName("The synthetic portfolios contain every product type")
+    void portfoliosCoverEveryProductType() {
+        var productTypes = SyntheticPortfolios.createPortfolios()
+                .stream()
+                .flatMap(Collection::stream)
+                .map(Product::productType)
+                .distinct();
+
+        assertThat(productTypes).containsExactlyInAnyOrder(ProductType.values());
+    }
+
+    @Test
+    @DisplayName("The synthetic portfolios lead to every discount outcome of the product rules")
+    void portfoliosCoverEveryDiscountOutcome() {
+        var discountService = new DiscountService();
+
+        var discounts = SyntheticPortfolios.createPortfolios()
+                .stream()
+                .map(discountService::determineDiscount)
+                .map(BigDecimal::stripTrailingZeros)
+                .distinct();
+
+        assertThat(discounts).contains(
+                BigDecimal.ZERO,
+                BigDecimal.valueOf(5),
+                BigDecimal.valueOf(10).stripTrailingZeros(),
+                BigDecimal.valueOf(15),
+                BigDecimal.valueOf(18),
+                BigDecimal.valueOf(20).stripTrailingZeros(),
+                BigDecimal.valueOf(30).stripTrailingZeros(),
+                BigDecimal.valueOf(96));
+    }
+
+    @Test
+    @DisplayName("When the maximum duration has passed, the warm-up stops after one round over all portfolios")
+    void warmUpCallsDiscountApiAndStops() {
+        var requestedPortfolios = new ArrayList<List<Product>>();
+        DiscountApi discountApi = products -> {
+            requestedPortfolios.add(products);
+            return BigDecimal.ZERO;
+        };
+
+        new DiscountWarmUp(discountApi, Duration.ZERO).run(null);
+
+        assertThat(requestedPortfolios)
+                .hasSize(DiscountWarmUp.CALLS_PER_ROUND)
+                .containsAll(SyntheticPortfolios.createPortfolios());
+    }
+}